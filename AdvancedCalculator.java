@@ -3,7 +3,177 @@ import java.awt.*;
 import java.awt.event.*;
 import java.text.DecimalFormat;
 import java.util.*;
-import java.util.List;
+import javax.swing.Timer;
+
+// Evaluates calculator expressions while keeping the parser state after every character,
+// so an edit only re-parses the text after the longest unchanged prefix
+class IncrementalEvaluator {
+
+    private static final class Values {
+        final double value;
+        final Values next;
+
+        Values(double value, Values next) {
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    private static final class Ops {
+        final char op;
+        final Ops next;
+
+        Ops(char op, Ops next) {
+            this.op = op;
+            this.next = next;
+        }
+    }
+
+    // Parser state after a prefix; the stacks are immutable and shared between states
+    private static final class State {
+        final Values values;
+        final Ops ops;
+        final int numberStart;   // start of the number being typed, -1 if none
+        final int depth;         // open brackets
+        final boolean unbalanced;
+        final RuntimeException error;
+
+        State(Values values, Ops ops, int numberStart, int depth, boolean unbalanced, RuntimeException error) {
+            this.values = values;
+            this.ops = ops;
+            this.numberStart = numberStart;
+            this.depth = depth;
+            this.unbalanced = unbalanced;
+            this.error = error;
+        }
+    }
+
+    private final StringBuilder text = new StringBuilder();
+    private final ArrayList<State> states = new ArrayList<>(); // states.get(i) follows the first i chars
+    private final DecimalFormat format = new DecimalFormat("#.####");
+
+    IncrementalEvaluator() {
+        states.add(new State(null, null, -1, 0, false, null));
+    }
+
+    double evaluate(String expr) {
+        sync(expr);
+
+        int end = expr.length();
+        while (end > 0 && "+-*/.".indexOf(expr.charAt(end - 1)) >= 0) end--;
+
+        State state = states.get(end);
+        if (state.unbalanced || state.depth != 0) {
+            throw new ArithmeticException("Unbalanced brackets");
+        }
+        if (state.error != null) throw state.error;
+
+        Values values = flushNumber(state, expr, end);
+        for (Ops ops = state.ops; ops != null; ops = ops.next) {
+            values = apply(values, ops.op);
+        }
+        if (values == null) throw new IllegalStateException("Empty expression");
+
+        return Double.parseDouble(format.format(values.value));
+    }
+
+    // Drops the states past the common prefix with expr and parses only the rest
+    private void sync(String expr) {
+        int common = 0;
+        int max = Math.min(text.length(), expr.length());
+        while (common < max && text.charAt(common) == expr.charAt(common)) common++;
+
+        text.setLength(common);
+        states.subList(common + 1, states.size()).clear();
+        for (int i = common; i < expr.length(); i++) {
+            states.add(step(states.get(i), expr, i));
+            text.append(expr.charAt(i));
+        }
+    }
+
+    private State step(State state, String expr, int i) {
+        char ch = expr.charAt(i);
+        if (Character.isDigit(ch) || ch == '.') {
+            if (state.numberStart >= 0) return state;
+            return new State(state.values, state.ops, i, state.depth, state.unbalanced, state.error);
+        }
+
+        int depth = state.depth;
+        boolean unbalanced = state.unbalanced;
+        if (ch == '(') {
+            depth++;
+        } else if (ch == ')') {
+            if (depth == 0) unbalanced = true;
+            else depth--;
+        }
+        if (state.error != null) {
+            return new State(null, null, -1, depth, unbalanced, state.error);
+        }
+
+        try {
+            Values values = flushNumber(state, expr, i);
+            Ops ops = state.ops;
+            if (ch == '(') {
+                ops = new Ops(ch, ops);
+            } else if (ch == ')') {
+                while (ops != null && ops.op != '(') {
+                    values = apply(values, ops.op);
+                    ops = ops.next;
+                }
+                if (ops != null) ops = ops.next;
+            } else if (precedence(ch) > 0) {
+                while (ops != null && precedence(ops.op) >= precedence(ch)) {
+                    values = apply(values, ops.op);
+                    ops = ops.next;
+                }
+                ops = new Ops(ch, ops);
+            }
+            return new State(values, ops, -1, depth, unbalanced, null);
+        } catch (RuntimeException e) {
+            return new State(null, null, -1, depth, unbalanced, e);
+        }
+    }
+
+    private static Values flushNumber(State state, String expr, int end) {
+        if (state.numberStart < 0) return state.values;
+        String token = expr.substring(state.numberStart, end);
+        if (isNumber(token)) return new Values(Double.parseDouble(token), state.values);
+        // Not a number, so like any unknown operator it consumes two operands
+        return apply(state.values, token.charAt(0));
+    }
+
+    private static Values apply(Values values, char op) {
+        if (values == null || values.next == null) throw new IllegalStateException("Missing operand");
+        double b = values.value;
+        double a = values.next.value;
+        Values rest = values.next.next;
+
+        switch (op) {
+            case '+': return new Values(a + b, rest);
+            case '-': return new Values(a - b, rest);
+            case '*': return new Values(a * b, rest);
+            case '/':
+                if (b == 0) throw new ArithmeticException("Division by zero");
+                return new Values(a / b, rest);
+            case '%': return new Values(a % b, rest);
+            default: return rest;
+        }
+    }
+
+    private static int precedence(char op) {
+        switch (op) {
+            case '+': case '-': return 1;
+            case '*': case '/': case '%': return 2;
+            default: return 0;
+        }
+    }
+
+    // Digits with an optional fractional part, e.g. "12" or "1.5" but not "1." or ".5"
+    private static boolean isNumber(String token) {
+        int dot = token.indexOf('.');
+        return dot != 0 && dot != token.length() - 1 && token.indexOf('.', dot + 1) < 0;
+    }
+}
 
 public class AdvancedCalculator extends JFrame implements ActionListener {
 
@@ -14,6 +184,9 @@ public class AdvancedCalculator extends JFrame implements ActionListener {
     private ArrayList<String> history = new ArrayList<>();
     private boolean isDarkTheme = false;
     private boolean isHistoryVisible = false;
+    private JLabel previewLabel;
+    private final IncrementalEvaluator evaluator = new IncrementalEvaluator();
+    private final Timer previewTimer = new Timer(PREVIEW_DELAY_MS, e -> updatePreview());
     private JButton themeButton, historyButton;
 
     private final Color LIGHT_BG = Color.WHITE;
@@ -21,6 +194,11 @@ public class AdvancedCalculator extends JFrame implements ActionListener {
     private final Color LIGHT_TEXT = Color.BLACK;
     private final Color DARK_TEXT = Color.WHITE;
 
+    private static final Font DISPLAY_FONT = new Font("Arial", Font.BOLD, 20);
+    private static final Font BUTTON_FONT = new Font("Arial", Font.BOLD, 16);
+    private static final Font SMALL_FONT = new Font("Arial", Font.PLAIN, 14);
+    private static final int PREVIEW_DELAY_MS = 60;
+
     public AdvancedCalculator() {
         setTitle("Advanced Calculator");
         setSize(500, 640);
@@ -30,13 +208,16 @@ public class AdvancedCalculator extends JFrame implements ActionListener {
         display = new JTextField();
         display.setBounds(30, 20, 420, 40);
         display.setEditable(false);
-        display.setFont(new Font("Arial", Font.BOLD, 20));
+        display.setFont(DISPLAY_FONT);
         add(display);
 
-        historyArea = new JTextArea();
-        historyArea.setEditable(false);
-        historyScroll = new JScrollPane(historyArea);
-        historyScroll.setBounds(30, 70, 420, 100);
+        previewLabel = new JLabel("", SwingConstants.RIGHT);
+        previewLabel.setBounds(30, 62, 420, 18);
+        previewLabel.setFont(SMALL_FONT);
+        add(previewLabel);
+
+        // Keystrokes within the delay are coalesced into a single preview update
+        previewTimer.setRepeats(false);
 
         String[] buttons = {
                 "(", ")", "%", "C",
@@ -51,7 +232,7 @@ public class AdvancedCalculator extends JFrame implements ActionListener {
         for (int i = 0; i < buttons.length; i++) {
             JButton btn = new JButton(buttons[i]);
             btn.setBounds(x, y, 90, 50);
-            btn.setFont(new Font("Arial", Font.BOLD, 16));
+            btn.setFont(BUTTON_FONT);
             btn.addActionListener(this);
             add(btn);
 
@@ -64,9 +245,10 @@ public class AdvancedCalculator extends JFrame implements ActionListener {
 
         historyButton = new JButton("History");
         historyButton.setBounds(235, y + 20, 80, 30);
-        historyButton.setFont(new Font("Arial", Font.PLAIN, 14));
+        historyButton.setFont(SMALL_FONT);
         historyButton.addActionListener(e -> {
             if (!isHistoryVisible) {
+                if (historyScroll == null) createHistoryArea();
                 add(historyScroll);
                 historyScroll.setVisible(true);
                 isHistoryVisible = true;
@@ -81,7 +263,7 @@ public class AdvancedCalculator extends JFrame implements ActionListener {
 
         themeButton = new JButton("Dark");
         themeButton.setBounds(335, y + 20, 80, 30);
-        themeButton.setFont(new Font("Arial", Font.PLAIN, 14));
+        themeButton.setFont(SMALL_FONT);
         themeButton.addActionListener(e -> {
             isDarkTheme = !isDarkTheme;
             themeButton.setText(isDarkTheme ? "Light" : "Dark");
@@ -148,9 +330,29 @@ public class AdvancedCalculator extends JFrame implements ActionListener {
             expression = "";
             display.setText("");
         }
+        previewTimer.restart();
+    }
+
+    private void updatePreview() {
+        try {
+            previewLabel.setText(expression.isEmpty() ? "" : "= " + evaluate(expression));
+        } catch (RuntimeException e) {
+            previewLabel.setText("");
+        }
+    }
+
+    // Built on first use so it doesn't delay the first frame
+    private void createHistoryArea() {
+        historyArea = new JTextArea();
+        historyArea.setEditable(false);
+        historyScroll = new JScrollPane(historyArea);
+        historyScroll.setBounds(30, 85, 420, 90);
+        updateHistory();
+        applyTheme();
     }
 
     private void updateHistory() {
+        if (historyArea == null) return;
         StringBuilder sb = new StringBuilder();
         for (String entry : history) {
             sb.append(entry).append("\n");
@@ -165,104 +367,15 @@ public class AdvancedCalculator extends JFrame implements ActionListener {
         getContentPane().setBackground(bg);
         display.setBackground(bg);
         display.setForeground(fg);
-        historyArea.setBackground(bg);
-        historyArea.setForeground(fg);
-    }
-
-    private boolean isBracketsBalanced(String expr) {
-        Stack<Character> stack = new Stack<>();
-        for (char ch : expr.toCharArray()) {
-            if (ch == '(') stack.push(ch);
-            else if (ch == ')') {
-                if (stack.isEmpty() || stack.pop() != '(') return false;
-            }
+        previewLabel.setForeground(fg);
+        if (historyArea != null) {
+            historyArea.setBackground(bg);
+            historyArea.setForeground(fg);
         }
-        return stack.isEmpty();
     }
 
     private double evaluate(String expr) {
-        expr = expr.trim();
-
-        while (expr.endsWith("+") || expr.endsWith("-") || expr.endsWith("*") || expr.endsWith("/") || expr.endsWith(".")) {
-            expr = expr.substring(0, expr.length() - 1);
-        }
-
-        if (!isBracketsBalanced(expr)) {
-            throw new ArithmeticException("Unbalanced brackets");
-        }
-
-        List<String> postfix = infixToPostfix(expr);
-        double result = evaluatePostfix(postfix);
-
-        DecimalFormat df = new DecimalFormat("#.####");
-        return Double.parseDouble(df.format(result));
-    }
-
-    private List<String> infixToPostfix(String expr) {
-        List<String> output = new ArrayList<>();
-        Stack<Character> stack = new Stack<>();
-        StringBuilder number = new StringBuilder();
-
-        Map<Character, Integer> precedence = Map.of(
-                '+', 1, '-', 1, '*', 2, '/', 2, '%', 2
-        );
-
-        for (int i = 0; i < expr.length(); i++) {
-            char ch = expr.charAt(i);
-
-            if (Character.isDigit(ch) || ch == '.') {
-                number.append(ch);
-            } else {
-                if (number.length() > 0) {
-                    output.add(number.toString());
-                    number.setLength(0);
-                }
-
-                if (ch == '(') {
-                    stack.push(ch);
-                } else if (ch == ')') {
-                    while (!stack.isEmpty() && stack.peek() != '(') {
-                        output.add(String.valueOf(stack.pop()));
-                    }
-                    if (!stack.isEmpty()) stack.pop();
-                } else if (precedence.containsKey(ch)) {
-                    while (!stack.isEmpty() && precedence.getOrDefault(stack.peek(), 0) >= precedence.get(ch)) {
-                        output.add(String.valueOf(stack.pop()));
-                    }
-                    stack.push(ch);
-                }
-            }
-        }
-
-        if (number.length() > 0) output.add(number.toString());
-        while (!stack.isEmpty()) output.add(String.valueOf(stack.pop()));
-
-        return output;
-    }
-
-    private double evaluatePostfix(List<String> postfix) {
-        Stack<Double> stack = new Stack<>();
-
-        for (String token : postfix) {
-            if (token.matches("-?\\d+(\\.\\d+)?")) {
-                stack.push(Double.parseDouble(token));
-            } else {
-                double b = stack.pop();
-                double a = stack.pop();
-
-                switch (token) {
-                    case "+": stack.push(a + b); break;
-                    case "-": stack.push(a - b); break;
-                    case "*": stack.push(a * b); break;
-                    case "/":
-                        if (b == 0) throw new ArithmeticException("Division by zero");
-                        stack.push(a / b); break;
-                    case "%": stack.push(a % b); break;
-                }
-            }
-        }
-
-        return stack.pop();
+        return evaluator.evaluate(expr.trim());
     }
 
     public static void main(String[] args) {
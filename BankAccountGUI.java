@@ -1,6 +1,317 @@
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.*;
+
+// Applies a postings file (accountNumber,type,amount per row) across many accounts.
+// Rows are hash-partitioned by account onto single-writer workers, so every account's
+// rows are applied in file order by one thread and no locking is needed.
+class BankImport {
+    private static final int BATCH_SIZE = 1024;
+    private static final int QUEUE_BATCHES = 16;
+    private static final Batch END = new Batch(0);
+
+    static class Summary {
+        long rows, deposits, withdrawals, rejected;
+        int workers;
+        long elapsedNanos;
+        Map<String, Double> balances = new TreeMap<>();
+        Path rejectsFile, balancesFile;
+
+        double rowsPerSecond() {
+            return elapsedNanos == 0 ? 0 : rows * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Rows: %,d (%,d deposits, %,d withdrawals, %,d rejected)%n"
+                            + "Accounts: %,d%nWorkers: %d%nTime: %.2f s (%,.0f rows/s)%n"
+                            + "Rejects: %s%nBalances: %s",
+                    rows, deposits, withdrawals, rejected, balances.size(), workers,
+                    elapsedNanos / 1e9, rowsPerSecond(), rejectsFile, balancesFile);
+        }
+    }
+
+    private static class Batch {
+        final String[] lines;
+        final long[] lineNumbers;
+        int size;
+
+        Batch(int capacity) {
+            lines = new String[capacity];
+            lineNumbers = new long[capacity];
+        }
+    }
+
+    // Owns every account that hashes to it; only its worker thread touches these fields
+    private static class Partition implements Callable<Partition> {
+        final BlockingQueue<Batch> queue = new ArrayBlockingQueue<>(QUEUE_BATCHES);
+        final Map<String, Double> openingBalances;
+        final HashMap<String, double[]> balances = new HashMap<>();
+        final Path rejectsFile; // this partition's rejects, already in line order
+        long deposits, withdrawals, rejected;
+        private BufferedWriter rejects;
+
+        Partition(Map<String, Double> openingBalances, Path rejectsFile) {
+            this.openingBalances = openingBalances;
+            this.rejectsFile = rejectsFile;
+        }
+
+        @Override
+        public Partition call() throws InterruptedException, IOException {
+            try (BufferedWriter writer = Files.newBufferedWriter(rejectsFile)) {
+                rejects = writer;
+                while (true) {
+                    Batch batch = queue.take();
+                    if (batch == END) return this;
+                    for (int i = 0; i < batch.size; i++) {
+                        apply(batch.lineNumbers[i], batch.lines[i]);
+                    }
+                }
+            }
+        }
+
+        private void apply(long lineNumber, String line) throws IOException {
+            int c1 = line.indexOf(',');
+            int c2 = c1 < 0 ? -1 : line.indexOf(',', c1 + 1);
+            if (c2 < 0) {
+                reject(lineNumber, line, "Expected accountNumber,type,amount.");
+                return;
+            }
+
+            String account = line.substring(0, c1).trim();
+            String type = line.substring(c1 + 1, c2).trim();
+            double amount;
+            try {
+                amount = Double.parseDouble(line.substring(c2 + 1).trim());
+            } catch (NumberFormatException e) {
+                amount = Double.NaN;
+            }
+            if (account.isEmpty() || !Double.isFinite(amount)) {
+                reject(lineNumber, line, "Please enter a valid amount.");
+                return;
+            }
+
+            boolean isDeposit = type.equalsIgnoreCase("D") || type.equalsIgnoreCase("DEPOSIT");
+            boolean isWithdrawal = type.equalsIgnoreCase("W") || type.equalsIgnoreCase("WITHDRAW");
+            if (!isDeposit && !isWithdrawal) {
+                reject(lineNumber, line, "Unknown transaction type: " + type);
+                return;
+            }
+
+            // Accounts only get an entry once a posting to them is applied
+            double[] balance = balances.get(account);
+            double current = balance != null ? balance[0] : openingBalances.getOrDefault(account, 0.0);
+            String error = isDeposit
+                    ? BankAccountGUI.checkDeposit(amount)
+                    : BankAccountGUI.checkWithdrawal(current, amount);
+            if (error != null) {
+                reject(lineNumber, line, error);
+                return;
+            }
+
+            if (balance == null) {
+                balance = new double[] { current };
+                balances.put(account, balance);
+            }
+            if (isDeposit) {
+                balance[0] += amount;
+                deposits++;
+            } else {
+                balance[0] -= amount;
+                withdrawals++;
+            }
+        }
+
+        private void reject(long lineNumber, String line, String reason) throws IOException {
+            rejects.write(lineNumber + "," + csv(reason) + "," + csv(line));
+            rejects.newLine();
+            rejected++;
+        }
+    }
+
+    // Reads one partition's rejects file, keyed by the line number that starts each row
+    private static class RejectCursor {
+        final BufferedReader reader;
+        String row;
+        long lineNumber;
+
+        RejectCursor(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        boolean advance() throws IOException {
+            row = reader.readLine();
+            if (row == null) return false;
+            lineNumber = Long.parseLong(row, 0, row.indexOf(','), 10);
+            return true;
+        }
+    }
+
+    // Writes <input>.rejects.csv and <input>.balances.csv next to the input file
+    static Summary run(Path input, Map<String, Double> openingBalances, int workers)
+            throws IOException, InterruptedException, ExecutionException {
+        if (workers < 1) throw new IllegalArgumentException("At least one worker is required.");
+        long start = System.nanoTime();
+        Summary summary = new Summary();
+        summary.workers = workers;
+
+        List<Partition> partitions = new ArrayList<>();
+        try {
+            for (int i = 0; i < workers; i++) {
+                partitions.add(new Partition(openingBalances, Files.createTempFile("rejects-", ".csv")));
+            }
+            applyPostings(input, partitions, summary);
+
+            summary.rejectsFile = input.resolveSibling(input.getFileName() + ".rejects.csv");
+            mergeRejects(partitions, summary.rejectsFile);
+        } finally {
+            for (Partition partition : partitions) {
+                Files.deleteIfExists(partition.rejectsFile);
+            }
+        }
+
+        summary.balancesFile = input.resolveSibling(input.getFileName() + ".balances.csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(summary.balancesFile)) {
+            writer.write("accountNumber,balance");
+            writer.newLine();
+            for (Map.Entry<String, Double> entry : summary.balances.entrySet()) {
+                writer.write(csv(entry.getKey()) + "," + entry.getValue());
+                writer.newLine();
+            }
+        }
+        summary.elapsedNanos = System.nanoTime() - start;
+        return summary;
+    }
+
+    private static void applyPostings(Path input, List<Partition> partitions, Summary summary)
+            throws IOException, InterruptedException, ExecutionException {
+        int workers = partitions.size();
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        List<Future<Partition>> futures = new ArrayList<>();
+        for (Partition partition : partitions) {
+            futures.add(pool.submit(partition));
+        }
+
+        boolean completed = false;
+        try (BufferedReader reader = Files.newBufferedReader(input)) {
+            Batch[] pending = new Batch[workers];
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && line.regionMatches(true, 0, "account", 0, 7))) continue;
+                summary.rows++;
+
+                int p = partitionOf(line, workers);
+                if (pending[p] == null) pending[p] = new Batch(BATCH_SIZE);
+                Batch batch = pending[p];
+                batch.lines[batch.size] = line;
+                batch.lineNumbers[batch.size] = lineNumber;
+                if (++batch.size == BATCH_SIZE) {
+                    send(partitions.get(p), futures.get(p), batch);
+                    pending[p] = null;
+                }
+            }
+
+            for (int p = 0; p < workers; p++) {
+                if (pending[p] != null) send(partitions.get(p), futures.get(p), pending[p]);
+                send(partitions.get(p), futures.get(p), END);
+            }
+            completed = true;
+        } finally {
+            if (completed) pool.shutdown();
+            else pool.shutdownNow();
+        }
+
+        for (Future<Partition> future : futures) {
+            Partition partition = future.get();
+            summary.deposits += partition.deposits;
+            summary.withdrawals += partition.withdrawals;
+            summary.rejected += partition.rejected;
+            for (Map.Entry<String, double[]> entry : partition.balances.entrySet()) {
+                summary.balances.put(entry.getKey(), entry.getValue()[0]);
+            }
+        }
+    }
+
+    // K-way merges the partitions' line-ordered rejects files, holding one row per partition in memory
+    private static void mergeRejects(List<Partition> partitions, Path target) throws IOException {
+        List<BufferedReader> readers = new ArrayList<>();
+        try (BufferedWriter writer = Files.newBufferedWriter(target)) {
+            writer.write("line,reason,row");
+            writer.newLine();
+
+            PriorityQueue<RejectCursor> heads = new PriorityQueue<>(Comparator.comparingLong(c -> c.lineNumber));
+            for (Partition partition : partitions) {
+                BufferedReader reader = Files.newBufferedReader(partition.rejectsFile);
+                readers.add(reader);
+                RejectCursor cursor = new RejectCursor(reader);
+                if (cursor.advance()) heads.add(cursor);
+            }
+            while (!heads.isEmpty()) {
+                RejectCursor cursor = heads.poll();
+                writer.write(cursor.row);
+                writer.newLine();
+                if (cursor.advance()) heads.add(cursor);
+            }
+        } finally {
+            for (BufferedReader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    // Hands a batch to its worker, failing the import instead of blocking forever if the worker died
+    private static void send(Partition partition, Future<Partition> worker, Batch batch)
+            throws InterruptedException, ExecutionException {
+        while (!partition.queue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+            if (worker.isDone()) {
+                worker.get(); // rethrows the worker's failure
+                throw new IllegalStateException("Import worker stopped early");
+            }
+        }
+    }
+
+    private static String csv(String value) {
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    // Same as account.trim().hashCode(), without allocating the substring
+    private static int partitionOf(String line, int workers) {
+        int end = line.indexOf(',');
+        if (end < 0) end = line.length();
+        int begin = 0;
+        while (begin < end && line.charAt(begin) <= ' ') begin++;
+        while (end > begin && line.charAt(end - 1) <= ' ') end--;
+
+        int hash = 0;
+        for (int i = begin; i < end; i++) {
+            hash = 31 * hash + line.charAt(i);
+        }
+        return Math.floorMod(hash, workers);
+    }
+
+    // Usage: java BankImport <postings.csv> [workers]
+    public static void main(String[] args) throws Exception {
+        int workers = Runtime.getRuntime().availableProcessors();
+        try {
+            if (args.length > 1) workers = Integer.parseInt(args[1]);
+        } catch (NumberFormatException e) {
+            workers = 0;
+        }
+        if (args.length < 1 || workers < 1) {
+            System.err.println("Usage: java BankImport <postings.csv> [workers]");
+            System.err.println("workers must be a whole number of at least 1");
+            System.exit(1);
+        }
+        System.out.println(run(Paths.get(args[0]), Map.of(), workers));
+    }
+}
 
 public class BankAccountGUI {
 
@@ -13,7 +324,7 @@ public class BankAccountGUI {
     private JTextField amountField;
 
     public BankAccountGUI(String accountNumber, String accountHolder, double initialBalance) {
-        this.accountNumber = accountNumber;
+        this.accountNumber = accountNumber.trim(); // BankImport matches rows on the trimmed number
         this.accountHolder = accountHolder;
         this.balance = initialBalance;
         initialize();
@@ -31,6 +342,7 @@ public class BankAccountGUI {
 
         JButton depositButton = new JButton("Deposit");
         JButton withdrawButton = new JButton("Withdraw");
+        JButton importButton = new JButton("Import Postings...");
         JButton exitButton = new JButton("Exit");
 
         depositButton.addActionListener(e -> {
@@ -51,6 +363,8 @@ public class BankAccountGUI {
             }
         });
 
+        importButton.addActionListener(e -> importPostings(importButton));
+
         exitButton.addActionListener(e -> {
             JOptionPane.showMessageDialog(frame, "Thank you for using our services!");
             System.exit(0);
@@ -62,35 +376,77 @@ public class BankAccountGUI {
         frame.add(amountField);
         frame.add(depositButton);
         frame.add(withdrawButton);
+        frame.add(importButton);
         frame.add(exitButton);
 
         frame.setVisible(true);
     }
 
+    // Validation shared with BankImport; each returns null when the transaction is allowed
+    static String checkDeposit(double amount) {
+        return amount > 0 ? null : "Deposit amount must be greater than zero.";
+    }
+
+    static String checkWithdrawal(double balance, double amount) {
+        if (!(amount > 0)) return "Withdrawal amount must be greater than zero.";
+        if (!(balance >= amount)) return "Insufficient balance.";
+        return null;
+    }
+
     private void deposit(double amount) {
-        if (amount > 0) {
+        String error = checkDeposit(amount);
+        if (error == null) {
             balance += amount;
             updateBalance();
             showInfo("₹" + amount + " deposited successfully.");
         } else {
-            showError("Deposit amount must be greater than zero.");
+            showError(error);
         }
     }
 
     private void withdraw(double amount) {
-        if (amount > 0) {
-            if (balance >= amount) {
-                balance -= amount;
-                updateBalance();
-                showInfo("₹" + amount + " withdrawn successfully.");
-            } else {
-                showError("Insufficient balance.");
-            }
+        String error = checkWithdrawal(balance, amount);
+        if (error == null) {
+            balance -= amount;
+            updateBalance();
+            showInfo("₹" + amount + " withdrawn successfully.");
         } else {
-            showError("Withdrawal amount must be greater than zero.");
+            showError(error);
         }
     }
 
+    private void importPostings(JButton importButton) {
+        JFileChooser chooser = new JFileChooser();
+        if (chooser.showOpenDialog(frame) != JFileChooser.APPROVE_OPTION) return;
+
+        Path input = chooser.getSelectedFile().toPath();
+        double openingBalance = balance;
+        int workers = Runtime.getRuntime().availableProcessors();
+        importButton.setEnabled(false);
+
+        new SwingWorker<BankImport.Summary, Void>() {
+            @Override
+            protected BankImport.Summary doInBackground() throws Exception {
+                return BankImport.run(input, Map.of(accountNumber, openingBalance), workers);
+            }
+
+            @Override
+            protected void done() {
+                importButton.setEnabled(true);
+                try {
+                    BankImport.Summary summary = get();
+                    // Keep any deposits or withdrawals made in the window while importing
+                    balance += summary.balances.getOrDefault(accountNumber, openingBalance) - openingBalance;
+                    updateBalance();
+                    showInfo(summary.toString());
+                } catch (InterruptedException | ExecutionException ex) {
+                    Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                    showError("Import failed: " + cause.getMessage());
+                }
+            }
+        }.execute();
+    }
+
     private void updateBalance() {
         balanceLabel.setText("Current Balance: ₹" + balance);
         amountField.setText("");
@@ -121,7 +477,7 @@ public class BankAccountGUI {
             int result = JOptionPane.showConfirmDialog(null, panel, "Create Account", JOptionPane.OK_CANCEL_OPTION);
             if (result == JOptionPane.OK_OPTION) {
                 try {
-                    String accNum = accNumField.getText();
+                    String accNum = accNumField.getText().trim();
                     String accHolder = accHolderField.getText();
                     double initBal = Double.parseDouble(initBalanceField.getText());
 
@@ -0,0 +1,147 @@
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.*;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single entry point for all four tools.
+ *
+ * Usage: java Launcher [calculator|bank [accountNumber holder balance]|todo|currency] [--exit-after-first-frame]
+ *
+ * With no tool name a small chooser window is shown. The time to the tool's first
+ * painted frame is printed to stdout, measured from JVM start, or from the click
+ * when the chooser is used. The bank tool opens its account window directly
+ * (a Guest account unless one is given) instead of asking for one in a dialog.
+ *
+ * Class-data sharing (JDK 13+) needs the classes in a jar, not a directory:
+ *   jar cf tools.jar *.class
+ *   java -XX:ArchiveClassesAtExit=launcher.jsa -cp tools.jar:json-20230227.jar Launcher todo --exit-after-first-frame
+ *   java -XX:SharedArchiveFile=launcher.jsa -cp tools.jar:json-20230227.jar Launcher todo
+ */
+public class Launcher {
+
+    private static final String[] TOOLS = { "calculator", "bank", "todo", "currency" };
+
+    private static boolean exitAfterFirstFrame = false;
+    private static boolean firstFrameReported = false;
+    private static boolean probeInstalled = false;
+    private static Window chooser;
+    private static long chooserClickNanos = 0;
+
+    public static void main(String[] args) {
+        String tool = null;
+        List<String> toolArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.equals("--exit-after-first-frame")) {
+                exitAfterFirstFrame = true;
+            } else if (tool == null) {
+                tool = arg.toLowerCase();
+            } else {
+                toolArgs.add(arg);
+            }
+        }
+
+        watchFirstFrame();
+
+        if (tool == null) {
+            SwingUtilities.invokeLater(Launcher::showChooser);
+        } else if (!launch(tool, toolArgs.toArray(new String[0]))) {
+            System.err.println("Unknown tool: " + tool);
+            System.err.println("Usage: java Launcher [calculator|bank [accountNumber holder balance]|todo|currency]"
+                    + " [--exit-after-first-frame]");
+            System.exit(1);
+        }
+    }
+
+    private static boolean launch(String tool, String[] toolArgs) {
+        switch (tool) {
+            case "calculator":
+                AdvancedCalculator.main(new String[0]);
+                return true;
+            case "bank":
+                String accountNumber = toolArgs.length > 0 ? toolArgs[0] : "0001";
+                String holder = toolArgs.length > 1 ? toolArgs[1] : "Guest";
+                double balance = toolArgs.length > 2 ? Double.parseDouble(toolArgs[2]) : 0;
+                SwingUtilities.invokeLater(() -> new BankAccountGUI(accountNumber, holder, balance));
+                return true;
+            case "todo":
+                ToDoListGUI.main(new String[0]);
+                return true;
+            case "currency":
+                CurrencyConverterGUI.main(new String[0]);
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static void showChooser() {
+        JFrame frame = new JFrame("Launcher");
+        chooser = frame;
+        frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        frame.setLayout(new GridLayout(0, 1, 5, 5));
+
+        for (String tool : TOOLS) {
+            JButton btn = new JButton(tool);
+            btn.addActionListener(e -> {
+                chooserClickNanos = System.nanoTime();
+                frame.dispose();
+                launch(tool, new String[0]);
+            });
+            frame.add(btn);
+        }
+
+        frame.pack();
+        frame.setLocationRelativeTo(null);
+        frame.setVisible(true);
+    }
+
+    // Installs a paint probe in the first tool frame as soon as components are added to it,
+    // which is before any of the tools make their frame visible
+    private static void watchFirstFrame() {
+        Toolkit.getDefaultToolkit().addAWTEventListener(event -> {
+            if (event.getID() != ContainerEvent.COMPONENT_ADDED || probeInstalled) return;
+            Window window = SwingUtilities.getWindowAncestor(((ContainerEvent) event).getContainer());
+            if (!(window instanceof JFrame) || window == chooser) return;
+            probeInstalled = true;
+
+            PaintProbe probe = new PaintProbe();
+            probe.setBounds(0, 0, 1, 1);
+            ((JFrame) window).getLayeredPane().add(probe, JLayeredPane.DRAG_LAYER);
+        }, AWTEvent.CONTAINER_EVENT_MASK);
+    }
+
+    private static void reportFirstFrame() {
+        long shownAt = System.nanoTime();
+        long millis;
+        if (chooserClickNanos != 0) {
+            millis = (shownAt - chooserClickNanos) / 1_000_000;
+        } else {
+            // Taken after the fact so loading java.management isn't counted
+            long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+            millis = uptime - (System.nanoTime() - shownAt) / 1_000_000;
+        }
+        System.out.println("First frame after " + millis + " ms");
+        if (exitAfterFirstFrame) {
+            System.exit(0);
+        }
+    }
+
+    // Transparent 1x1 component in the frame's top layer; it is painted with the frame's first paint
+    private static final class PaintProbe extends JComponent {
+        @Override
+        protected void paintComponent(Graphics g) {
+            if (firstFrameReported) return;
+            firstFrameReported = true;
+
+            // Runs once this paint pass has been flushed to the screen
+            SwingUtilities.invokeLater(() -> {
+                Container parent = getParent();
+                if (parent != null) parent.remove(this);
+                reportFirstFrame();
+            });
+        }
+    }
+}
@@ -1,16 +1,31 @@
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.awt.*;
 import java.awt.event.*;
 import java.io.*;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
 
 class Task {
     String title, category;
     LocalDate deadline;
     boolean isCompleted;
+    int searchId = -1; // Slot in TrigramIndex, -1 when not indexed
 
     public Task(String title, String category, LocalDate deadline, boolean isCompleted) {
         this.title = title;
@@ -24,13 +39,387 @@ class Task {
         return "[" + (isCompleted ? "✔" : "✘") + "] " + title + " | " + category + " | " + deadline;
     }
 
+    // Parsed by TaskFileLoader
     public String toFileString() {
         return title + ";" + category + ";" + deadline + ";" + isCompleted;
     }
+}
+
+// Reads tasks.txt through a memory-mapped buffer, parsing newline-aligned chunks in parallel
+class TaskFileLoader {
+    private static final int MIN_CHUNK_BYTES = 1 << 20;
+
+    // Hands each chunk's tasks (sorted by deadline) to onChunk as it finishes and returns the malformed lines
+    static List<String> load(Path path, Consumer<List<Task>> onChunk)
+            throws IOException, InterruptedException, ExecutionException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File too large to map: " + size + " bytes");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        int size = buffer.capacity();
+        int chunkCount = (int) Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() * 4L,
+                size / MIN_CHUNK_BYTES));
+
+        List<Chunk> chunks = new ArrayList<>();
+        int start = 0;
+        for (int i = 1; i <= chunkCount && start < size; i++) {
+            int end = i == chunkCount ? size : nextLineStart(buffer, (int) ((long) size * i / chunkCount));
+            if (end > start) {
+                chunks.add(new Chunk(buffer, start, end));
+                start = end;
+            }
+        }
+
+        CompletionService<Chunk> completion = new ExecutorCompletionService<>(ForkJoinPool.commonPool());
+        List<Future<Chunk>> futures = new ArrayList<>();
+        try {
+            for (Chunk chunk : chunks) {
+                futures.add(completion.submit(chunk));
+            }
+            for (int i = 0; i < chunks.size(); i++) {
+                onChunk.accept(completion.take().get().tasks);
+            }
+        } finally {
+            // Every parser must be finished before the mapping goes away
+            boolean interrupted = false;
+            for (Future<Chunk> future : futures) {
+                while (true) {
+                    try {
+                        future.get();
+                        break;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    } catch (ExecutionException | CancellationException e) {
+                        break;
+                    }
+                }
+            }
+            unmap(buffer);
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+
+        // Line numbers are only known once the chunks before are counted
+        List<String> malformed = new ArrayList<>();
+        int linesBefore = 0;
+        for (Chunk chunk : chunks) {
+            for (int i = 0; i < chunk.badLines.size(); i++) {
+                malformed.add("Line " + (linesBefore + chunk.badLines.get(i)) + ": " + chunk.badReasons.get(i));
+            }
+            linesBefore += chunk.lineCount;
+        }
+        return malformed;
+    }
+
+    // Releases the mapping now instead of at some later GC; Windows refuses to
+    // truncate a file while a mapped view of it exists, which would break Save
+    private static void unmap(MappedByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafeClass.getMethod("invokeCleaner", ByteBuffer.class).invoke(theUnsafe.get(null), buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Not available on this JVM; the mapping is released when the buffer is collected
+        }
+    }
+
+    private static int nextLineStart(ByteBuffer buffer, int from) {
+        for (int p = from - 1; p < buffer.limit(); p++) {
+            if (buffer.get(p) == '\n') return p + 1;
+        }
+        return buffer.limit();
+    }
+
+    private static class Chunk implements Callable<Chunk> {
+        private final ByteBuffer buffer;
+        private final int start, end;
+        private byte[] line = new byte[256];
+
+        final ArrayList<Task> tasks = new ArrayList<>();
+        final ArrayList<Integer> badLines = new ArrayList<>();
+        final ArrayList<String> badReasons = new ArrayList<>();
+        int lineCount;
+
+        Chunk(ByteBuffer buffer, int start, int end) {
+            this.buffer = buffer;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public Chunk call() {
+            int pos = start;
+            while (pos < end) {
+                int eol = pos;
+                while (eol < end && buffer.get(eol) != '\n') eol++;
+                int len = eol - pos;
+                if (len > 0 && buffer.get(pos + len - 1) == '\r') len--;
+
+                if (len > line.length) line = new byte[Math.max(len, line.length * 2)];
+                buffer.get(pos, line, 0, len);
+                lineCount++;
+                if (len > 0) parseLine(len);
+                pos = eol + 1;
+            }
+            tasks.sort(Comparator.comparing(t -> t.deadline));
+            return this;
+        }
+
+        // Reads the title;category;deadline;completed format written by Task.toFileString
+        private void parseLine(int len) {
+            int s1 = indexOf(';', 0, len);
+            int s2 = s1 < 0 ? -1 : indexOf(';', s1 + 1, len);
+            int s3 = s2 < 0 ? -1 : indexOf(';', s2 + 1, len);
+            if (s3 < 0) {
+                reject("expected title;category;deadline;completed");
+                return;
+            }
+
+            LocalDate deadline = parseDate(s2 + 1, s3);
+            if (deadline == null) {
+                reject("invalid deadline");
+                return;
+            }
+
+            int s4 = indexOf(';', s3 + 1, len);
+            int flagEnd = s4 < 0 ? len : s4;
+            boolean completed = flagEnd - s3 - 1 == 4
+                    && (line[s3 + 1] | 0x20) == 't' && (line[s3 + 2] | 0x20) == 'r'
+                    && (line[s3 + 3] | 0x20) == 'u' && (line[s3 + 4] | 0x20) == 'e';
+
+            String title = new String(line, 0, s1, StandardCharsets.UTF_8);
+            String category = new String(line, s1 + 1, s2 - s1 - 1, StandardCharsets.UTF_8);
+            tasks.add(new Task(title, category, deadline, completed));
+        }
+
+        private LocalDate parseDate(int from, int to) {
+            if (to - from != 10 || line[from + 4] != '-' || line[from + 7] != '-') return null;
+            int year = digits(from, 4), month = digits(from + 5, 2), day = digits(from + 8, 2);
+            if (year < 0 || month < 0 || day < 0) return null;
+            try {
+                return LocalDate.of(year, month, day);
+            } catch (DateTimeException e) {
+                return null;
+            }
+        }
+
+        private int digits(int from, int count) {
+            int value = 0;
+            for (int i = from; i < from + count; i++) {
+                int d = line[i] - '0';
+                if (d < 0 || d > 9) return -1;
+                value = value * 10 + d;
+            }
+            return value;
+        }
+
+        private int indexOf(char ch, int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (line[i] == ch) return i;
+            }
+            return -1;
+        }
+
+        private void reject(String reason) {
+            badLines.add(lineCount);
+            badReasons.add(reason);
+        }
+    }
+}
+
+// Trigram inverted index over task titles, with postings kept as sorted primitive id lists
+class TrigramIndex {
+    private static final int SMALL_CANDIDATE_COUNT = 4096;
+
+    private long[] keys = new long[1024];       // packed trigram + 1, 0 marks a free slot
+    private int[][] postings = new int[1024][];
+    private int[] postingSizes = new int[1024];
+    private int slotsUsed;
+
+    private Task[] byId = new Task[1024];
+    private int nextId, live;
+
+    void add(Task task) {
+        if (nextId == byId.length) byId = Arrays.copyOf(byId, byId.length * 2);
+        int id = nextId++;
+        byId[id] = task;
+        task.searchId = id;
+        live++;
+
+        String title = task.title;
+        for (int i = 0; i + 3 <= title.length(); i++) {
+            int slot = slot(trigram(title, i), true);
+            int size = postingSizes[slot];
+            int[] ids = postings[slot];
+            if (size > 0 && ids[size - 1] == id) continue; // trigram repeats within this title
+            if (size == ids.length) postings[slot] = ids = Arrays.copyOf(ids, size * 2);
+            ids[size] = id;
+            postingSizes[slot] = size + 1;
+        }
+    }
+
+    // Deleted ids are only dropped from postings when the index is compacted
+    void remove(Task task) {
+        int id = task.searchId;
+        if (id < 0 || id >= nextId || byId[id] != task) return;
+        byId[id] = null;
+        task.searchId = -1;
+        live--;
+        if (nextId - live > Math.max(1024, live)) compact();
+    }
+
+    void clear() {
+        for (int i = 0; i < nextId; i++) {
+            if (byId[i] != null) byId[i].searchId = -1;
+        }
+        keys = new long[1024];
+        postings = new int[1024][];
+        postingSizes = new int[1024];
+        slotsUsed = 0;
+        byId = new Task[1024];
+        nextId = live = 0;
+    }
 
-    public static Task fromFileString(String line) {
-        String[] parts = line.split(";");
-        return new Task(parts[0], parts[1], LocalDate.parse(parts[2]), Boolean.parseBoolean(parts[3]));
+    // Case-insensitive substring match on titles, returning at most limit + 1 matches in the
+    // order of sorted (the deadline-sorted task list); the query needs at least three characters
+    List<Task> search(String query, List<Task> sorted, int limit) {
+        List<Task> matches = new ArrayList<>();
+        if (query.length() < 3) return matches;
+
+        int gramCount = query.length() - 2;
+        int[] slots = new int[gramCount];
+        for (int i = 0; i < gramCount; i++) {
+            slots[i] = slot(trigram(query, i), false);
+            if (slots[i] < 0) return matches;
+        }
+
+        // Intersect starting from the shortest posting list
+        int shortest = 0;
+        for (int i = 1; i < gramCount; i++) {
+            if (postingSizes[slots[i]] < postingSizes[slots[shortest]]) shortest = i;
+        }
+        int[] candidates = Arrays.copyOf(postings[slots[shortest]], postingSizes[slots[shortest]]);
+        int count = candidates.length;
+        for (int i = 0; i < gramCount && count > 0; i++) {
+            if (i != shortest) count = intersect(candidates, count, postings[slots[i]], postingSizes[slots[i]]);
+        }
+
+        // Trigrams can all be present without the query being a substring
+        if (count <= SMALL_CANDIDATE_COUNT) {
+            for (int i = 0; i < count; i++) {
+                Task task = byId[candidates[i]];
+                if (task != null && containsIgnoreCase(task.title, query)) matches.add(task);
+            }
+            matches.sort(Comparator.comparing(t -> t.deadline));
+            return matches.size() > limit + 1 ? new ArrayList<>(matches.subList(0, limit + 1)) : matches;
+        }
+
+        // Too many to sort per keystroke: walk the sorted list and stop once enough are found
+        long[] isCandidate = new long[(nextId + 63) >>> 6];
+        for (int i = 0; i < count; i++) {
+            isCandidate[candidates[i] >>> 6] |= 1L << candidates[i];
+        }
+        for (Task task : sorted) {
+            int id = task.searchId;
+            if (id >= 0 && (isCandidate[id >>> 6] & (1L << id)) != 0 && containsIgnoreCase(task.title, query)) {
+                matches.add(task);
+                if (matches.size() > limit) break;
+            }
+        }
+        return matches;
+    }
+
+    private void compact() {
+        List<Task> remaining = new ArrayList<>(live);
+        for (int id = 0; id < nextId; id++) {
+            if (byId[id] != null) remaining.add(byId[id]);
+        }
+        clear();
+        for (Task task : remaining) {
+            add(task);
+        }
+    }
+
+    // Keeps the ids of a[0..aSize) that also occur in b, in place; returns the new size
+    private static int intersect(int[] a, int aSize, int[] b, int bSize) {
+        int i = 0, j = 0, out = 0;
+        while (i < aSize && j < bSize) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else {
+                a[out++] = a[i++];
+                j++;
+            }
+        }
+        return out;
+    }
+
+    private static long trigram(String text, int at) {
+        return ((long) fold(text.charAt(at)) << 32)
+                | ((long) fold(text.charAt(at + 1)) << 16)
+                | fold(text.charAt(at + 2));
+    }
+
+    // Index keys and verification must fold case identically, or matches are lost; this is the
+    // per-char equivalence String.regionMatches(true, ...) uses (e.g. 'ı', 'I' and 'i' are equal)
+    private static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    private static boolean containsIgnoreCase(String text, String query) {
+        outer:
+        for (int i = 0; i + query.length() <= text.length(); i++) {
+            for (int j = 0; j < query.length(); j++) {
+                if (fold(text.charAt(i + j)) != fold(query.charAt(j))) continue outer;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    // Open addressing with linear probing; returns -1 for a missing key unless create is set
+    private int slot(long trigram, boolean create) {
+        long key = trigram + 1;
+        int mask = keys.length - 1;
+        int slot = (int) (key * 0x9E3779B97F4A7C15L >>> 32) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+        if (!create) return -1;
+
+        if ((slotsUsed + 1) * 2 > keys.length) {
+            grow();
+            return slot(trigram, true);
+        }
+        keys[slot] = key;
+        postings[slot] = new int[4];
+        slotsUsed++;
+        return slot;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[][] oldPostings = postings;
+        int[] oldSizes = postingSizes;
+        keys = new long[oldKeys.length * 2];
+        postings = new int[keys.length][];
+        postingSizes = new int[keys.length];
+
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == 0) continue;
+            int slot = (int) (oldKeys[i] * 0x9E3779B97F4A7C15L >>> 32) & mask;
+            while (keys[slot] != 0) slot = (slot + 1) & mask;
+            keys[slot] = oldKeys[i];
+            postings[slot] = oldPostings[i];
+            postingSizes[slot] = oldSizes[i];
+        }
     }
 }
 
@@ -41,7 +430,15 @@ public class ToDoListGUI extends JFrame {
     private final JTextField titleField = new JTextField(10);
     private final JTextField categoryField = new JTextField(10);
     private final JTextField deadlineField = new JTextField(10);
+    private final JTextField searchField = new JTextField(20);
+    private final JLabel searchStatus = new JLabel(" ");
+    private final TrigramIndex searchIndex = new TrigramIndex();
+    private static final int MAX_SEARCH_RESULTS = 1000;
+    private String shownQuery = "";
     private final String FILE_NAME = "tasks.txt";
+    private final JButton saveBtn = new JButton("💾 Save");
+    private final JButton loadBtn = new JButton("📂 Load");
+    private SwingWorker<List<String>, List<Task>> loader;
 
     public ToDoListGUI() {
         setTitle("📝 To-Do List App");
@@ -61,7 +458,22 @@ public class ToDoListGUI extends JFrame {
         JButton addButton = new JButton("➕ Add Task");
         addButton.addActionListener(e -> addTask());
         inputPanel.add(addButton);
-        add(inputPanel, BorderLayout.NORTH);
+
+        // Search Panel
+        JPanel searchPanel = new JPanel();
+        searchPanel.add(new JLabel("🔍 Search:"));
+        searchPanel.add(searchField);
+        searchPanel.add(searchStatus);
+        searchField.getDocument().addDocumentListener(new DocumentListener() {
+            public void insertUpdate(DocumentEvent e) { applySearch(); }
+            public void removeUpdate(DocumentEvent e) { applySearch(); }
+            public void changedUpdate(DocumentEvent e) { applySearch(); }
+        });
+
+        JPanel northPanel = new JPanel(new BorderLayout());
+        northPanel.add(inputPanel, BorderLayout.CENTER);
+        northPanel.add(searchPanel, BorderLayout.SOUTH);
+        add(northPanel, BorderLayout.NORTH);
 
         // Task List with Custom Renderer
         taskList.setCellRenderer(new TaskCellRenderer());
@@ -74,13 +486,8 @@ public class ToDoListGUI extends JFrame {
         completeBtn.addActionListener(e -> markCompleted());
         JButton deleteBtn = new JButton("🗑 Delete Task");
         deleteBtn.addActionListener(e -> deleteTask());
-        JButton saveBtn = new JButton("💾 Save");
         saveBtn.addActionListener(e -> saveTasksToFile());
-        JButton loadBtn = new JButton("📂 Load");
-        loadBtn.addActionListener(e -> {
-            loadTasksFromFile();
-            showReminders();
-        });
+        loadBtn.addActionListener(e -> loadTasksFromFile());
 
         buttonPanel.add(completeBtn);
         buttonPanel.add(deleteBtn);
@@ -88,9 +495,8 @@ public class ToDoListGUI extends JFrame {
         buttonPanel.add(loadBtn);
         add(buttonPanel, BorderLayout.SOUTH);
 
-        loadTasksFromFile(); // Load on start
-        showReminders();     // Show due reminders
         setVisible(true);
+        loadTasksFromFile(); // Loads in the background, then shows due reminders
     }
 
     private void addTask() {
@@ -107,6 +513,7 @@ public class ToDoListGUI extends JFrame {
             LocalDate deadline = LocalDate.parse(deadlineStr, DateTimeFormatter.ofPattern("yyyy-MM-dd"));
             Task task = new Task(title, category, deadline, false);
             tasks.add(task);
+            searchIndex.add(task);
             sortAndRefresh();
             titleField.setText("");
             categoryField.setText("");
@@ -127,15 +534,58 @@ public class ToDoListGUI extends JFrame {
 
     private void refreshTaskList() {
         listModel.clear();
-        for (Task task : tasks) {
-            listModel.addElement(task);
+        shownQuery = searchQuery();
+        if (shownQuery.isEmpty()) {
+            listModel.addAll(tasks);
+            searchStatus.setText(searchField.getText().isBlank() ? " " : "Type at least 3 characters");
+        } else {
+            List<Task> matches = searchIndex.search(shownQuery, tasks, MAX_SEARCH_RESULTS);
+            if (matches.size() > MAX_SEARCH_RESULTS) {
+                listModel.addAll(matches.subList(0, MAX_SEARCH_RESULTS));
+                searchStatus.setText("First " + MAX_SEARCH_RESULTS + " matches");
+            } else {
+                listModel.addAll(matches);
+                searchStatus.setText(matches.size() + " match(es)");
+            }
+        }
+    }
+
+    // Only rebuilds the list when the effective query changes
+    private void applySearch() {
+        if (!searchQuery().equals(shownQuery)) {
+            refreshTaskList();
+        } else if (shownQuery.isEmpty()) {
+            searchStatus.setText(searchField.getText().isBlank() ? " " : "Type at least 3 characters");
+        }
+    }
+
+    // Titles are only filtered once there is a full trigram to look up
+    private String searchQuery() {
+        String query = searchField.getText().trim();
+        return query.length() < 3 ? "" : query;
+    }
+
+    // Merges a deadline-sorted batch into the already sorted task list
+    private void mergeTasks(List<Task> batch) {
+        ArrayList<Task> merged = new ArrayList<>(tasks.size() + batch.size());
+        int i = 0, j = 0;
+        while (i < tasks.size() && j < batch.size()) {
+            if (batch.get(j).deadline.isBefore(tasks.get(i).deadline)) {
+                merged.add(batch.get(j++));
+            } else {
+                merged.add(tasks.get(i++));
+            }
         }
+        merged.addAll(tasks.subList(i, tasks.size()));
+        merged.addAll(batch.subList(j, batch.size()));
+        tasks.clear();
+        tasks.addAll(merged);
     }
 
     private void markCompleted() {
-        int index = taskList.getSelectedIndex();
-        if (index != -1) {
-            tasks.get(index).isCompleted = true;
+        Task task = taskList.getSelectedValue();
+        if (task != null) {
+            task.isCompleted = true;
             sortAndRefresh();
         } else {
             JOptionPane.showMessageDialog(this, "Select a task to mark as completed.");
@@ -143,9 +593,10 @@ public class ToDoListGUI extends JFrame {
     }
 
     private void deleteTask() {
-        int index = taskList.getSelectedIndex();
-        if (index != -1) {
-            tasks.remove(index);
+        Task task = taskList.getSelectedValue();
+        if (task != null) {
+            tasks.remove(task);
+            searchIndex.remove(task);
             sortAndRefresh();
         } else {
             JOptionPane.showMessageDialog(this, "Select a task to delete.");
@@ -153,7 +604,7 @@ public class ToDoListGUI extends JFrame {
     }
 
     private void saveTasksToFile() {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(FILE_NAME))) {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(FILE_NAME, StandardCharsets.UTF_8))) {
             for (Task task : tasks) {
                 writer.write(task.toFileString());
                 writer.newLine();
@@ -165,19 +616,63 @@ public class ToDoListGUI extends JFrame {
     }
 
     private void loadTasksFromFile() {
+        if (loader != null) loader.cancel(true);
         tasks.clear();
+        searchIndex.clear();
+        refreshTaskList();
         File file = new File(FILE_NAME);
         if (!file.exists()) return;
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                tasks.add(Task.fromFileString(line));
+        // Saving now would write a partial list over the file the parsers are still reading
+        saveBtn.setEnabled(false);
+        loadBtn.setEnabled(false);
+
+        loader = new SwingWorker<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            protected List<String> doInBackground() throws Exception {
+                return TaskFileLoader.load(file.toPath(), chunk -> publish(chunk));
             }
-            sortAndRefresh();
-        } catch (IOException e) {
-            JOptionPane.showMessageDialog(this, "Error loading tasks.");
+
+            @Override
+            protected void process(List<List<Task>> chunks) {
+                if (isCancelled()) return;
+                for (List<Task> chunk : chunks) {
+                    mergeTasks(chunk);
+                    for (Task task : chunk) {
+                        searchIndex.add(task);
+                    }
+                }
+                refreshTaskList();
+            }
+
+            @Override
+            protected void done() {
+                saveBtn.setEnabled(true);
+                loadBtn.setEnabled(true);
+                if (isCancelled()) return;
+                try {
+                    List<String> malformed = get();
+                    if (!malformed.isEmpty()) showMalformedLines(malformed);
+                } catch (InterruptedException | ExecutionException e) {
+                    JOptionPane.showMessageDialog(ToDoListGUI.this, "Error loading tasks.");
+                }
+                showReminders();
+            }
+        };
+        loader.execute();
+    }
+
+    private void showMalformedLines(List<String> malformed) {
+        StringBuilder message = new StringBuilder("⚠ Skipped " + malformed.size() + " malformed line(s):\n");
+        int shown = Math.min(10, malformed.size());
+        for (int i = 0; i < shown; i++) {
+            message.append("• ").append(malformed.get(i)).append("\n");
+        }
+        if (malformed.size() > shown) {
+            message.append("…and ").append(malformed.size() - shown).append(" more");
         }
+        JOptionPane.showMessageDialog(this, message.toString());
     }
 
     private void showReminders() {